@@ -0,0 +1,17 @@
+package com.example.streams;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Supplies the fruits, veggies and integer values that {@link GentlyDownTheStream} operates on.
+ * Each call returns a fresh stream, so implementations can generate data lazily instead of storing it.
+ */
+public interface DataSource {
+
+    Stream<String> fruits();
+
+    Stream<String> veggies();
+
+    IntStream integers();
+}
@@ -0,0 +1,22 @@
+package com.example.streams;
+
+/**
+ * Shapes of integer data that {@link GeneratedDataSource} can produce.
+ */
+public enum Distribution {
+
+    /** Every value in the range is equally likely. */
+    UNIFORM,
+
+    /** Discrete Zipf: the k-th value of the range (from 0) has probability proportional to 1 / (k + 1)^s. */
+    ZIPF,
+
+    /** Values spread evenly across the range in ascending order. */
+    SORTED,
+
+    /** Values spread evenly across the range in descending order. */
+    REVERSE_SORTED,
+
+    /** Values drawn from a small set of distinct values, so most elements repeat. */
+    HEAVY_DUPLICATE
+}
@@ -0,0 +1,315 @@
+package com.example.streams;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Seeded, repeatable data source for tests and load testing.
+ * Values are generated lazily in fixed-size blocks, each with its own {@link SplittableRandom}
+ * derived from the seed and the block index. The same seed therefore always yields the same
+ * values in the same order, whether the returned streams are consumed sequentially or in parallel,
+ * and sizes far beyond what fits in memory can be streamed.
+ */
+public class GeneratedDataSource implements DataSource {
+
+    static final int BLOCK_SIZE = 1 << 16;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long INTEGER_SALT = 0x494e544547455253L;
+    private static final long FRUIT_SALT = 0x4652554954530000L;
+    private static final long VEGGIE_SALT = 0x5645474749455300L;
+
+    private final long seed;
+    private final long size;
+    private final int origin;
+    private final int bound;
+    private final Distribution distribution;
+    private final double zipfExponent;
+    private final int distinctValues;
+    private final double nullRatio;
+    private final boolean sampling;
+    private final long stringCount;
+    private final List<String> fruitPool;
+    private final List<String> veggiePool;
+
+    private final long range;
+    private final double zipfHIntegralX1;
+    private final double zipfHIntegralN;
+    private final double zipfSqueeze;
+
+    private GeneratedDataSource(Builder builder) {
+        this.seed = builder.seed;
+        this.size = builder.size;
+        this.origin = builder.origin;
+        this.bound = builder.bound;
+        this.distribution = builder.distribution;
+        this.zipfExponent = builder.zipfExponent;
+        this.distinctValues = builder.distinctValues;
+        this.nullRatio = builder.nullRatio;
+        this.sampling = builder.sampling;
+        this.stringCount = builder.stringCount;
+        this.fruitPool = Collections.unmodifiableList(new ArrayList<>(builder.fruitPool));
+        this.veggiePool = Collections.unmodifiableList(new ArrayList<>(builder.veggiePool));
+
+        this.range = (long) bound - origin;
+        // Rejection-inversion constants depend only on the exponent and range
+        this.zipfHIntegralX1 = hIntegral(1.5) - 1.0;
+        this.zipfHIntegralN = hIntegral(range + 0.5);
+        this.zipfSqueeze = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The seed in use; pass it back to {@link Builder#seed(long)} to reproduce a run.
+     */
+    public long seed() {
+        return seed;
+    }
+
+    @Override
+    public Stream<String> fruits() {
+        return strings(fruitPool, FRUIT_SALT);
+    }
+
+    @Override
+    public Stream<String> veggies() {
+        return strings(veggiePool, VEGGIE_SALT);
+    }
+
+    @Override
+    public IntStream integers() {
+        return switch (distribution) {
+            case SORTED -> LongStream.range(0, size).mapToInt(this::sortedValue);
+            case REVERSE_SORTED -> LongStream.range(0, size).mapToInt(i -> sortedValue(size - 1 - i));
+            default -> blocks(size)
+                    .mapToObj(block -> integerBlock(block, blockLength(block, size)))
+                    .flatMapToInt(Function.identity());
+        };
+    }
+
+    private IntStream integerBlock(long block, int length) {
+        SplittableRandom random = randomFor(INTEGER_SALT, block);
+        return IntStream.range(0, length).map(i -> nextInteger(random));
+    }
+
+    private int nextInteger(SplittableRandom random) {
+        return switch (distribution) {
+            case ZIPF -> (int) (origin + zipfOffset(random));
+            case HEAVY_DUPLICATE -> {
+                int distinct = (int) Math.min(distinctValues, range);
+                yield (int) (origin + random.nextInt(distinct) * (range / distinct));
+            }
+            default -> random.nextInt(origin, bound);
+        };
+    }
+
+    // Discrete Zipf rank in [0, range) with P(k) proportional to 1 / (k + 1)^s, sampled by
+    // rejection-inversion (Hoermann and Derflinger, 1996) in O(1) expected time for any range
+    private long zipfOffset(SplittableRandom random) {
+        while (true) {
+            double u = zipfHIntegralN + random.nextDouble() * (zipfHIntegralX1 - zipfHIntegralN);
+            double x = hIntegralInverse(u);
+            long k = Math.max(1, Math.min(range, (long) (x + 0.5)));
+            if (k - x <= zipfSqueeze || u >= hIntegral(k + 0.5) - h(k)) {
+                return k - 1;
+            }
+        }
+    }
+
+    private double h(double x) {
+        return Math.exp(-zipfExponent * Math.log(x));
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1OverX((1.0 - zipfExponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = Math.max(-1.0, x * (1.0 - zipfExponent));
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    private static double log1pOverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    private static double expm1OverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1.0 + x * 0.5 * (1.0 + x / 3.0 * (1.0 + 0.25 * x));
+    }
+
+    private int sortedValue(long index) {
+        long offset = (long) ((double) index / size * range);
+        return (int) (origin + Math.min(offset, range - 1));
+    }
+
+    private Stream<String> strings(List<String> pool, long salt) {
+        long count = sampling ? stringCount : pool.size();
+        return blocks(count)
+                .mapToObj(block -> stringBlock(pool, salt, block, blockLength(block, count)))
+                .flatMap(Function.identity());
+    }
+
+    private Stream<String> stringBlock(List<String> pool, long salt, long block, int length) {
+        SplittableRandom random = randomFor(salt, block);
+        long start = block * BLOCK_SIZE;
+        return IntStream.range(0, length).mapToObj(i -> {
+            String value = sampling
+                    ? pool.get(random.nextInt(pool.size()))
+                    : pool.get((int) (start + i));
+            return random.nextDouble() < nullRatio ? null : value;
+        });
+    }
+
+    private static LongStream blocks(long count) {
+        return LongStream.range(0, (count + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    private static int blockLength(long block, long count) {
+        return (int) Math.min(BLOCK_SIZE, count - block * BLOCK_SIZE);
+    }
+
+    // Each block gets a well-mixed, independent seed so blocks can be generated in any order
+    private SplittableRandom randomFor(long salt, long block) {
+        long blockSeed = new SplittableRandom((seed ^ salt) + block * GOLDEN_GAMMA).nextLong();
+        return new SplittableRandom(blockSeed);
+    }
+
+    /**
+     * Defaults match the original hardcoded data: the six fruits, five veggies and
+     * 1000 uniform integers in [0, 1000], with a random seed.
+     */
+    public static class Builder {
+
+        private long seed = ThreadLocalRandom.current().nextLong();
+        private long size = 1000;
+        private int origin = 0;
+        private int bound = 1001;
+        private Distribution distribution = Distribution.UNIFORM;
+        private double zipfExponent = 1.0;
+        private int distinctValues = 10;
+        private double nullRatio = 0.0;
+        private boolean sampling = false;
+        private long stringCount = 0;
+        private List<String> fruitPool = Arrays.asList("Apple", "Orange", "Banana", "Pear", "Peach", "Tomato");
+        private List<String> veggiePool = Arrays.asList("Corn", "Potato", "Carrot", "Pea", "Tomato");
+
+        private Builder() {
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Number of integers to generate. Defaults to 1000.
+         */
+        public Builder size(long size) {
+            this.size = size;
+            return this;
+        }
+
+        /**
+         * Integers fall in [origin, bound), as with {@code Random.ints(origin, bound)}. Defaults to [0, 1001).
+         */
+        public Builder range(int origin, int bound) {
+            this.origin = origin;
+            this.bound = bound;
+            return this;
+        }
+
+        public Builder distribution(Distribution distribution) {
+            this.distribution = distribution;
+            return this;
+        }
+
+        /**
+         * Exponent s used by {@link Distribution#ZIPF}; larger values concentrate more on the low end.
+         * Must be positive and finite. Defaults to 1.0.
+         */
+        public Builder zipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+            return this;
+        }
+
+        /**
+         * Number of distinct values used by {@link Distribution#HEAVY_DUPLICATE}. Defaults to 10.
+         */
+        public Builder distinctValues(int distinctValues) {
+            this.distinctValues = distinctValues;
+            return this;
+        }
+
+        /**
+         * Probability that any fruit or veggie is replaced by null. Defaults to 0.
+         */
+        public Builder nullRatio(double nullRatio) {
+            this.nullRatio = nullRatio;
+            return this;
+        }
+
+        /**
+         * Switches fruits and veggies to sampling mode: each stream returns this many strings
+         * drawn at random from its pool. If never called, each pool is returned once, in order,
+         * with only the null ratio applied.
+         */
+        public Builder stringCount(long stringCount) {
+            this.sampling = true;
+            this.stringCount = stringCount;
+            return this;
+        }
+
+        public Builder fruitPool(List<String> fruitPool) {
+            this.fruitPool = fruitPool;
+            return this;
+        }
+
+        public Builder veggiePool(List<String> veggiePool) {
+            this.veggiePool = veggiePool;
+            return this;
+        }
+
+        public GeneratedDataSource build() {
+            if (size < 0) {
+                throw new IllegalArgumentException("Size cannot be negative");
+            }
+            if (origin >= bound) {
+                throw new IllegalArgumentException("Origin must be less than bound");
+            }
+            if (distribution == null) {
+                throw new IllegalArgumentException("Distribution cannot be null");
+            }
+            if (!(zipfExponent > 0) || Double.isInfinite(zipfExponent)) {
+                throw new IllegalArgumentException("Zipf exponent must be positive and finite");
+            }
+            if (distinctValues <= 0) {
+                throw new IllegalArgumentException("Distinct values must be positive");
+            }
+            if (!(nullRatio >= 0 && nullRatio <= 1)) {
+                throw new IllegalArgumentException("Null ratio must be between 0 and 1");
+            }
+            if (stringCount < 0) {
+                throw new IllegalArgumentException("String count cannot be negative");
+            }
+            if (fruitPool == null || veggiePool == null) {
+                throw new IllegalArgumentException("String pools cannot be null");
+            }
+            if (sampling && stringCount > 0 && (fruitPool.isEmpty() || veggiePool.isEmpty())) {
+                throw new IllegalArgumentException("String pools cannot be empty when sampling");
+            }
+            return new GeneratedDataSource(this);
+        }
+    }
+}
@@ -15,11 +15,21 @@ public class GentlyDownTheStream {
     protected List<Integer> integerValues;
 
     public GentlyDownTheStream() {
-        fruits = Arrays.asList("Apple", "Orange", "Banana", "Pear", "Peach", "Tomato");
-        veggies = Arrays.asList("Corn", "Potato", "Carrot", "Pea", "Tomato");
-        integerValues = new Random().ints(0, 1001)
+        this(GeneratedDataSource.builder().build());
+    }
+
+    /**
+     * Loads all data from the given source into memory.
+     * Use a seeded {@link GeneratedDataSource} for repeatable results.
+     */
+    public GentlyDownTheStream(DataSource dataSource) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Data source cannot be null");
+        }
+        fruits = dataSource.fruits().collect(Collectors.toList());
+        veggies = dataSource.veggies().collect(Collectors.toList());
+        integerValues = dataSource.integers()
                 .boxed()
-                .limit(1000)
                 .collect(Collectors.toList());
     }
 
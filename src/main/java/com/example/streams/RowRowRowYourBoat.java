@@ -11,37 +11,54 @@ package com.example.streams;
  * 4. "How can I make this Stream operation more efficient or readable?"
  * 5. "What additional validation should I add to make this method production-ready?"
  *
- * Example Output (with exception handling):
+ * Pass a seed as the first argument to reproduce a previous run.
+ *
+ * Example Output for {@code RowRowRowYourBoat 42} (with exception handling):
  * <pre>
  * ===== Normal Operation =====
+ * Seed: 42
  * 1) [Apple, Banana, Orange, Peach, Pear, Tomato]
  * 2) [Banana, Orange, Peach, Pear, Tomato]
  * 3) [Apple, Banana]
  * 4) Apple, Banana, Orange, Peach, Pear, Tomato
  * 5) [Tomato, Potato, Pea, Corn, Carrot]
  * 6) [TOMATO, POTATO, PEA, CORN, CARROT]
- * 7) [1000, 1000, 999, 999, 995, 995, 994, 993, 991, 990] *
- * 8) [1000, 999, 995, 994, 993, 991, 990, 989, 987, 986] *
- * 9) [999, 995, 993, 991, 989, 987, 985, 983, 981, 979] *
- * 10) 498.461 *
+ * 7) [1000, 995, 994, 992, 992, 992, 989, 988, 988, 987] *
+ * 8) [1000, 995, 994, 992, 989, 988, 987, 985, 984, 982] *
+ * 9) [995, 989, 987, 985, 977, 973, 969, 967, 965, 963] *
+ * 10) 478.641 *
  *
  * ===== Exception Handling Demo =====
  * Testing null collection: IllegalArgumentException caught
  * Testing empty collection: EmptyCollectionException caught
  * Testing invalid data: InvalidDataException caught
  *
- *     * These values will be different every run
+ *     * These values depend on the seed; without an argument a random seed is used
  * </pre>
  */
 public class RowRowRowYourBoat {
 
     public static void main(String[] args) {
 
+        GeneratedDataSource.Builder builder = GeneratedDataSource.builder();
+        if (args.length > 1) {
+            exitWithUsage();
+        }
+        if (args.length == 1) {
+            try {
+                builder.seed(Long.parseLong(args[0]));
+            } catch (NumberFormatException e) {
+                exitWithUsage();
+            }
+        }
+
         System.out.println("===== Normal Operation =====");
 
         try {
-            GentlyDownTheStream stream = new GentlyDownTheStream();
+            GeneratedDataSource dataSource = builder.build();
+            GentlyDownTheStream stream = new GentlyDownTheStream(dataSource);
 
+            System.out.println("Seed: " + dataSource.seed());
             System.out.println("1) " + stream.sortedFruits());
             System.out.println("2) " + stream.sortedFruitsException());
             System.out.println("3) " + stream.sortedFruitsFirstTwo());
@@ -63,6 +80,11 @@ public class RowRowRowYourBoat {
         demonstrateExceptionHandling();
     }
 
+    private static void exitWithUsage() {
+        System.err.println("Usage: RowRowRowYourBoat [seed]");
+        System.exit(2);
+    }
+
     /**
      * Demonstrates various exception scenarios and proper handling
      * This shows students how robust error handling works in practice
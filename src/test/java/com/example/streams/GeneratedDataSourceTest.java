@@ -0,0 +1,231 @@
+package com.example.streams;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class GeneratedDataSourceTest {
+
+    @Nested
+    @DisplayName("Determinism Tests")
+    class DeterminismTests {
+
+        @Test
+        @DisplayName("Should generate the same values for the same seed")
+        void sameSeedSameValues() {
+            GeneratedDataSource first = GeneratedDataSource.builder().seed(42).nullRatio(0.3).build();
+            GeneratedDataSource second = GeneratedDataSource.builder().seed(42).nullRatio(0.3).build();
+
+            assertThat(first.integers().toArray()).isEqualTo(second.integers().toArray());
+            assertThat(first.fruits().collect(Collectors.toList()))
+                    .isEqualTo(second.fruits().collect(Collectors.toList()));
+            assertThat(first.veggies().collect(Collectors.toList()))
+                    .isEqualTo(second.veggies().collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("Should generate different values for different seeds")
+        void differentSeedDifferentValues() {
+            int[] first = GeneratedDataSource.builder().seed(1).build().integers().toArray();
+            int[] second = GeneratedDataSource.builder().seed(2).build().integers().toArray();
+
+            assertThat(first).isNotEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("Should generate the same values in parallel as sequentially")
+        void parallelMatchesSequential() {
+            for (Distribution distribution : Distribution.values()) {
+                GeneratedDataSource source = GeneratedDataSource.builder()
+                        .seed(7)
+                        .size(GeneratedDataSource.BLOCK_SIZE * 3L + 17)
+                        .distribution(distribution)
+                        .build();
+
+                assertThat(source.integers().parallel().toArray())
+                        .as(distribution.name())
+                        .isEqualTo(source.integers().toArray());
+            }
+        }
+
+        @Test
+        @DisplayName("Should produce the same data in GentlyDownTheStream for the same seed")
+        void seededGentlyDownTheStream() {
+            GentlyDownTheStream first = new GentlyDownTheStream(GeneratedDataSource.builder().seed(99).build());
+            GentlyDownTheStream second = new GentlyDownTheStream(GeneratedDataSource.builder().seed(99).build());
+
+            assertThat(first.integerValues).isEqualTo(second.integerValues);
+            assertThat(first.fruits).isEqualTo(second.fruits);
+        }
+    }
+
+    @Nested
+    @DisplayName("Shape Tests")
+    class ShapeTests {
+
+        @Test
+        @DisplayName("Should match the original defaults")
+        void defaults() {
+            GeneratedDataSource source = GeneratedDataSource.builder().build();
+
+            assertThat(source.fruits().collect(Collectors.toList()))
+                    .containsExactly("Apple", "Orange", "Banana", "Pear", "Peach", "Tomato");
+            assertThat(source.veggies().collect(Collectors.toList()))
+                    .containsExactly("Corn", "Potato", "Carrot", "Pea", "Tomato");
+            assertThat(source.integers().count()).isEqualTo(1000);
+            assertThat(source.integers().allMatch(i -> i >= 0 && i <= 1000)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should stream more values than are ever stored")
+        void streamsLargeSizes() {
+            long size = 5_000_000_000L;
+            GeneratedDataSource source = GeneratedDataSource.builder().seed(3).size(size).build();
+
+            assertThat(source.integers().limit(10).count()).isEqualTo(10);
+            assertThat(GeneratedDataSource.builder().seed(3).size(size)
+                    .distribution(Distribution.REVERSE_SORTED).build()
+                    .integers().findFirst().getAsInt()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("Should generate sorted and reverse-sorted values across the range")
+        void sortedDistributions() {
+            List<Integer> sorted = GeneratedDataSource.builder().size(500).range(-50, 50)
+                    .distribution(Distribution.SORTED).build()
+                    .integers().boxed().collect(Collectors.toList());
+            List<Integer> reversed = GeneratedDataSource.builder().size(500).range(-50, 50)
+                    .distribution(Distribution.REVERSE_SORTED).build()
+                    .integers().boxed().collect(Collectors.toList());
+
+            assertThat(sorted).isSorted().startsWith(-50).endsWith(49);
+            assertThat(reversed).isSortedAccordingTo(Comparator.reverseOrder()).startsWith(49).endsWith(-50);
+        }
+
+        @Test
+        @DisplayName("Should give the second Zipf value its discrete Zipf share and stay in range")
+        void zipfSecondRankFrequency() {
+            for (double exponent : new double[]{0.5, 1.0, 2.0}) {
+                double harmonic = 0;
+                for (int k = 1; k <= 1001; k++) {
+                    harmonic += Math.pow(k, -exponent);
+                }
+                double expected = 1.0 / (Math.pow(2, exponent) * harmonic);
+
+                int[] values = GeneratedDataSource.builder().seed(5).size(100_000)
+                        .distribution(Distribution.ZIPF).zipfExponent(exponent).build()
+                        .integers().toArray();
+                long second = Arrays.stream(values).filter(i -> i == 1).count();
+
+                assertThat(Arrays.stream(values).allMatch(i -> i >= 0 && i <= 1000))
+                        .as("exponent " + exponent)
+                        .isTrue();
+                assertThat(second / 100_000.0)
+                        .as("exponent " + exponent)
+                        .isCloseTo(expected, within(0.005));
+            }
+        }
+
+        @Test
+        @DisplayName("Should give the lowest Zipf value its discrete Zipf share")
+        void zipfHeadFrequency() {
+            for (double exponent : new double[]{0.5, 1.0, 2.0}) {
+                double harmonic = 0;
+                for (int k = 1; k <= 1001; k++) {
+                    harmonic += Math.pow(k, -exponent);
+                }
+                double expected = 1.0 / harmonic;
+
+                long lowest = GeneratedDataSource.builder().seed(1).size(100_000)
+                        .distribution(Distribution.ZIPF).zipfExponent(exponent).build()
+                        .integers().filter(i -> i == 0).count();
+
+                assertThat(lowest / 100_000.0)
+                        .as("exponent " + exponent)
+                        .isCloseTo(expected, within(0.005));
+            }
+        }
+
+        @Test
+        @DisplayName("Should limit heavy-duplicate values to the configured number of distinct values")
+        void heavyDuplicates() {
+            Map<Integer, Long> counts = GeneratedDataSource.builder().seed(11).size(10_000)
+                    .distribution(Distribution.HEAVY_DUPLICATE).distinctValues(4).build()
+                    .integers().boxed()
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+            assertThat(counts).hasSize(4);
+            assertThat(counts.keySet()).allMatch(i -> i >= 0 && i <= 1000);
+        }
+
+        @Test
+        @DisplayName("Should replace roughly the configured ratio of strings with null")
+        void nullRatio() {
+            List<String> fruits = GeneratedDataSource.builder().seed(13).stringCount(10_000).nullRatio(0.25)
+                    .build().fruits().collect(Collectors.toList());
+
+            long nulls = fruits.stream().filter(Objects::isNull).count();
+
+            assertThat(fruits).hasSize(10_000);
+            assertThat(nulls).isBetween(2_200L, 2_800L);
+        }
+
+        @Test
+        @DisplayName("Should let GentlyDownTheStream skip generated null strings")
+        void gentlyDownTheStreamSkipsNulls() {
+            GentlyDownTheStream stream = new GentlyDownTheStream(
+                    GeneratedDataSource.builder().seed(17).stringCount(100).nullRatio(0.5).build());
+
+            assertThat(stream.fruits).containsNull();
+            assertDoesNotThrow(() ->
+                    assertThat(stream.sortedFruits()).doesNotContainNull().isSorted());
+        }
+    }
+
+    @Nested
+    @DisplayName("Exception Handling Tests")
+    class ExceptionHandlingTests {
+
+        @Test
+        @DisplayName("Should reject invalid configuration")
+        void invalidConfiguration() {
+            assertThatThrownBy(() -> GeneratedDataSource.builder().size(-1).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> GeneratedDataSource.builder().range(5, 5).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> GeneratedDataSource.builder().nullRatio(1.5).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> GeneratedDataSource.builder().zipfExponent(0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> GeneratedDataSource.builder().zipfExponent(Double.POSITIVE_INFINITY).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> GeneratedDataSource.builder().zipfExponent(Double.NaN).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> GeneratedDataSource.builder().distinctValues(0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> GeneratedDataSource.builder().stringCount(-1).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject a null data source")
+        void nullDataSource() {
+            assertThatThrownBy(() -> new GentlyDownTheStream(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cannot be null");
+        }
+    }
+}